@@ -20,6 +20,20 @@ import java.lang.annotation.Target;
  *     <li>Any POJO type</li>
  * </ul>
  *
+ * <p>The following parameter types require a Java worker and Storage extension that support them; otherwise the
+ * function fails when its parameters are bound:</p>
+ *
+ * <ul>
+ *     <li>SeekableByteChannel, which reads the blob lazily with HTTP range requests</li>
+ *     <li>FileChannel, which spills the blob to a local temporary file that callers map region by region</li>
+ *     <li>MappedByteBuffer, which spills the blob to a local temporary file and maps it whole. A single mapping
+ *     cannot exceed 2 GiB, so use FileChannel for larger blobs</li>
+ * </ul>
+ *
+ * <p>The temporary file behind FileChannel and MappedByteBuffer is deleted when the invocation completes, or, on
+ * platforms that cannot delete a mapped file, as soon as its mapping is released. The channel and buffer must not
+ * be used after the function returns, including from threads it started.</p>
+ *
  * <p>The following example is a Java function that uses a queue trigger and an input blob binding. The queue message
  * contains the name of the blob, and the function logs the size of the blob.</p>
  * 
@@ -70,4 +84,31 @@ public @interface BlobInput {
      * @return The app setting name of the connection string.
      */
     String connection() default "";
+
+    /**
+     * Defines the number of bytes read ahead of the current position when the parameter type is
+     * SeekableByteChannel. Default is -1, which disables read-ahead so each read issues its own range request.
+     * @return The read-ahead size in bytes.
+     */
+    int readAheadSize() default -1;
+
+    /**
+     * Defines whether the blob is cached on local disk. Entries are keyed on the blob URI, which includes the
+     * storage account resolved from the connection as well as the path, so bindings to different accounts never
+     * share entries. The ETag is not part of the key; it is only used to revalidate an entry with a conditional
+     * request. Entries are memory mapped when the parameter type is MappedByteBuffer.
+     * Default: false
+     * @return Whether the local disk cache is enabled.
+     */
+    boolean localCache() default false;
+
+    /**
+     * Defines the disk budget in megabytes of the local cache. The cache is shared by every binding on the
+     * instance and its budget is the largest value declared by any binding with localCache enabled. The least
+     * recently used entries are evicted first. An evicted entry that an invocation is still reading, for example
+     * through a mapping, is removed from the cache at once but its file is deleted only after the last reader
+     * releases it, and it counts against the budget until then. Default is -1, which allows 1024 megabytes.
+     * @return The local cache size in megabytes.
+     */
+    int localCacheSizeInMB() default -1;
 }
@@ -20,6 +20,30 @@ import java.lang.annotation.Target;
  *     <li>Any POJO type</li>
  * </ul>
  *
+ * <p>The parameter type can also be OutputStream, in which case blocks are uploaded in parallel while the function
+ * is still writing, and the block list is committed when the function completes. This parameter type requires a
+ * Java worker and Storage extension that support it; otherwise the function fails when its parameters are
+ * bound.</p>
+ *
+ * <p>Setting rollSizeInMB or rollInterval switches the binding to rolling mode, where records from many
+ * invocations are buffered and written as NDJSON files. Rolling mode follows these rules:</p>
+ *
+ * <ul>
+ *     <li>It requires a Java worker and Storage extension that support it, and a supporting extension fails the
+ *     function at startup if any rule below is broken. An extension that predates rolling mode ignores these
+ *     attributes and writes every invocation's value to the literal path, each write overwriting the last, so do
+ *     not deploy functions using it to such hosts.</li>
+ *     <li>The path may only contain the [date], [instance] and [seq] placeholders; binding expressions such as
+ *     {name} are not allowed, since records from different invocations are written to the same file.</li>
+ *     <li>Each String or POJO value becomes one line: a String is written as is and must not contain a line
+ *     break, and a POJO is serialized as single-line JSON. Each element of a List becomes its own line. A value
+ *     that breaks these rules fails its invocation. byte[] values and the OutputStream parameter type are not
+ *     supported.</li>
+ *     <li>Delivery is at-most-once: an invocation completes, and its trigger message is settled or checkpointed,
+ *     before its records are written. Pending files are flushed on graceful shutdown, but records still buffered
+ *     when the instance crashes or is recycled are lost.</li>
+ * </ul>
+ *
  * <p>The following example shows blob input and output bindings in a Java function. The function makes a copy of
  * a text blob. The function is triggered by a queue message that contains the name of the blob to copy. The new
  * blob is named {originalblobname}-Copy.</p>
@@ -58,7 +82,14 @@ public @interface BlobOutput {
     String dataType() default "";
 
     /**
-     * Defines the path of the blob to which to write.
+     * Defines the path of the blob to which to write. In rolling mode the path may also include the following
+     * placeholders, which use square brackets so they are not resolved as binding expressions:
+     * <ul>
+     *     <li>[date]: the UTC date the file was started, formatted as yyyy-MM-dd</li>
+     *     <li>[instance]: the id of the host instance writing the file</li>
+     *     <li>[seq]: a counter of the files started by that instance on that date, starting at 0</li>
+     * </ul>
+     * For example "out/[date]/[instance]-[seq].ndjson.gz".
      * @return The blob path string.
      */
     String path();
@@ -68,4 +99,40 @@ public @interface BlobOutput {
      * @return The app setting name of the connection string.
      */
     String connection() default "";
+
+    /**
+     * Defines the size in bytes of the blocks staged when the parameter type is OutputStream.
+     * Default is -1, which stages 4 MiB blocks.
+     * @return The block size in bytes.
+     */
+    int blockSize() default -1;
+
+    /**
+     * Defines the maximum number of blocks uploaded in parallel when the parameter type is OutputStream.
+     * Default is -1, which uploads one block at a time.
+     * @return The maximum number of concurrent block uploads.
+     */
+    int maxConcurrentUploads() default -1;
+
+    /**
+     * Defines the size in megabytes at which a rolling file is closed and a new one started. Setting this or
+     * rollInterval switches the binding to rolling mode. Default is -1, which disables rolling by size.
+     * @return The rolling file size in megabytes.
+     */
+    int rollSizeInMB() default -1;
+
+    /**
+     * Defines the time after which a rolling file is closed and a new one started, for example "00:05:00".
+     * Default is "", which disables rolling by time.
+     * @return The rolling interval.
+     */
+    String rollInterval() default "";
+
+    /**
+     * Defines the compression applied to rolling files. Only applies in rolling mode; setting it to anything
+     * other than 'None' without rollSizeInMB or rollInterval fails the function at startup.
+     * 'None' is the default if unspecified
+     * @return An {@link Compression} value representing the compression
+     */
+    Compression compression() default Compression.NONE;
 }
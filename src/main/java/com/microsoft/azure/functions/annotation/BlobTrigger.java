@@ -21,6 +21,20 @@ import java.lang.annotation.Target;
  *     <li>Any POJO type</li>
  * </ul>
  *
+ * <p>The following parameter types require a Java worker and Storage extension that support them; otherwise the
+ * function fails when its parameters are bound:</p>
+ *
+ * <ul>
+ *     <li>SeekableByteChannel, which reads the blob lazily with HTTP range requests</li>
+ *     <li>FileChannel, which spills the blob to a local temporary file that callers map region by region</li>
+ *     <li>MappedByteBuffer, which spills the blob to a local temporary file and maps it whole. A single mapping
+ *     cannot exceed 2 GiB, so use FileChannel for larger blobs</li>
+ * </ul>
+ *
+ * <p>The temporary file behind FileChannel and MappedByteBuffer is deleted when the invocation completes, or, on
+ * platforms that cannot delete a mapped file, as soon as its mapping is released. The channel and buffer must not
+ * be used after the function returns, including from threads it started.</p>
+ *
  *
  * <p>The following example shows a Java function that logs the filename and size when a blob is added or updated
  * in the "samples-workitems" container:</p>
@@ -77,4 +91,51 @@ public @interface BlobTrigger {
      * @return the parameter to specify the type of the blob trigger to use.
      */
     String source() default "";
+
+    /**
+     * Defines the number of bytes read ahead of the current position when the parameter type is
+     * SeekableByteChannel. Default is -1, which disables read-ahead so each read issues its own range request.
+     * @return The read-ahead size in bytes.
+     */
+    int readAheadSize() default -1;
+
+    /**
+     * Defines the maximum number of virtual directory prefixes listed in parallel when scanning the container.
+     * Only applies when source is not EventGrid. Default is -1, which lists one prefix at a time.
+     * @return The maximum number of concurrent listings.
+     */
+    int scanParallelism() default -1;
+
+    /**
+     * Defines whether each scan only examines blobs changed since the last completed scan, using a cursor kept
+     * with the blob receipts. When a scan completes, the cursor is set to the time the scan started minus a
+     * five-minute clock-skew margin, so blobs committed while prefixes were being listed are examined again by
+     * the next scan; blob receipts prevent them from triggering twice. If listing any prefix fails, the cursor is
+     * not advanced and the next scan starts from the previous cursor. Only applies when source is not
+     * EventGrid.
+     * Default: false
+     * @return Whether incremental scanning is enabled.
+     */
+    boolean incrementalScan() default false;
+
+    /**
+     * Defines whether append blobs are tailed, so each invocation receives only the bytes appended since the last
+     * processed offset instead of the entire blob. Block blobs and page blobs are not affected and are delivered
+     * whole as usual. If an append blob is deleted and recreated, or becomes shorter than the stored offset, the
+     * offset is reset and the blob is delivered again from its start.
+     * Default: false
+     * @return Whether append blob tailing is enabled.
+     */
+    boolean tailAppendBlobs() default false;
+
+    /**
+     * Defines whether the appended bytes are split into lines. The bytes are decoded as UTF-8 and split on "\n",
+     * with a trailing "\r" removed from each line. The parameter type must then be String[] or
+     * List&lt;String&gt;, with one element per complete line. A trailing partial line is held back until a later
+     * append completes it, or until the blob has not changed for five minutes, after which it is delivered as is;
+     * bytes appended to it afterwards start a new line. Only applies when tailAppendBlobs is true.
+     * Default: false
+     * @return Whether appended bytes are split into lines.
+     */
+    boolean splitLines() default false;
 }
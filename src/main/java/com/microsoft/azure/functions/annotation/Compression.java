@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.annotation;
+
+/**
+ * Compression of a binding payload, applied by output bindings when writing and reversed by triggers when reading.
+ *
+ * @since 3.1.0
+ */
+public enum Compression {
+    /**
+     * The payload is written as is. This is the default if omitted.
+     */
+    NONE,
+
+    /**
+     * The payload is compressed with gzip.
+     */
+    GZIP
+}
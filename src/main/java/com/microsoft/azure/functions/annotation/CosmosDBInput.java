@@ -23,6 +23,12 @@ import java.lang.annotation.Target;
  * <li>Any POJO type</li>
  * </ul>
  *
+ * <p>
+ * Iterable&lt;T&gt; or Stream&lt;T&gt; can also be used for sqlQuery results, which are then
+ * fetched lazily one page at a time. These parameter types require a Java worker and Cosmos DB
+ * extension that support them; otherwise the function fails when its parameters are bound.
+ * </p>
+ *
  *
  * <p>
  * The following example shows a Java function that retrieves a single document.
@@ -99,12 +105,39 @@ public @interface CosmosDBInput {
     String id() default "";
 
     /**
-     * Defines the SQL query string to which to bind.
+     * Defines the SQL query string to which to bind. May include binding parameters, for example
+     * "SELECT * FROM c WHERE c.id = {id}". Binding parameters are sent as query parameters rather
+     * than substituted into the query text.
      * 
      * @return The SQL query string.
      */
     String sqlQuery() default "";
 
+    /**
+     * Defines the documents to read by id and partition key in a single call. May include binding
+     * parameters, and must resolve to a JSON array of objects with "id" and "partitionKey"
+     * properties, for example "{Query.items}". Documents are returned as a List in input order,
+     * with a null entry in place of each document that does not exist, so the List always has the
+     * same size as the input. Cannot be combined with id, sqlQuery or partitionKey. The cache
+     * attributes do not apply to these reads; every call goes to the service.
+     * This attribute requires a Java worker and Cosmos DB extension that support it; a supporting
+     * extension fails the function when its parameters are bound if the attribute cannot be
+     * honored. An extension that predates it ignores it and treats the binding as having no id or
+     * sqlQuery, which reads every document in the container, so do not deploy functions using it
+     * to such hosts.
+     * 
+     * @return The item identities string.
+     */
+    String itemIdentities() default "";
+
+    /**
+     * Defines the maximum number of documents fetched per page when the parameter type is
+     * Iterable&lt;T&gt; or Stream&lt;T&gt;. Default is -1, which uses the service default.
+     * 
+     * @return The maximum number of documents per page.
+     */
+    int maxItemCount() default -1;
+
     /**
      * Defines the app setting name that contains the CosmosDB connection string.
      * 
@@ -117,4 +150,28 @@ public @interface CosmosDBInput {
      * @return partition key value
      */
     String partitionKey() default "";
+
+    /**
+     * Defines the time in milliseconds a document read by id and partition key is served from
+     * the in-process cache before it is read again. Each binding has its own cache, keyed on
+     * connection, database, container, id and partition key, so bindings never share entries.
+     * Default is -1, which disables caching.
+     * @return The cache time to live in milliseconds.
+     */
+    int cacheTtl() default -1;
+
+    /**
+     * Defines the maximum number of documents held in the cache of this binding. The least
+     * recently used entries are evicted first. Since caches are not shared, the limit of one
+     * binding does not affect another. Default is -1, which holds at most 1000 documents.
+     * @return The maximum number of cached documents.
+     */
+    int cacheMaxEntries() default -1;
+
+    /**
+     * Defines whether an expired cached document is returned while it is refreshed in the
+     * background. Default is false, which reads expired documents before returning.
+     * @return Whether stale documents are served while being revalidated.
+     */
+    boolean cacheStaleWhileRevalidate() default false;
 }
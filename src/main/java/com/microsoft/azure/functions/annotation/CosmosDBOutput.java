@@ -124,4 +124,24 @@ public @interface CosmosDBOutput {
    * @return PreferredLocations for geo-replicated database accounts
    */
   String preferredLocations() default "";
+
+  /**
+   * Enable to write a collection of documents in bulk. Operations are grouped by partition key and
+   * are not executed as transactional batches, so each document succeeds or fails on its own: one
+   * failed document does not stop the others from being written. If any document fails, the
+   * invocation fails with an error listing every failed document and its status code, so the
+   * trigger's retry and at-least-once delivery still apply. Documents that were written stay written
+   * and are written again on retry, which is safe because writes are upserts.
+   * 
+   * @return whether to use bulk execution
+   */
+  boolean allowBulkExecution() default false;
+
+  /**
+   * If AllowBulkExecution is true, defines the maximum number of partition key groups written
+   * concurrently. Default is -1, which writes one partition key group at a time.
+   * 
+   * @return Maximum number of concurrent bulk operations.
+   */
+  int maxConcurrentBulkOperations() default -1;
 }
@@ -156,6 +156,15 @@ public @interface CosmosDBTrigger {
    */
   int feedPollDelay() default 5000;
 
+  /**
+   * Customizes the upper bound in milliseconds to which feedPollDelay is raised when invocations
+   * queue up faster than they complete, so that polling slows down under backpressure. Default is
+   * -1, which keeps feedPollDelay fixed.
+   * 
+   * @return maxFeedPollDelay
+   */
+  int maxFeedPollDelay() default -1;
+
   /**
    * Defines the app setting name that contains the CosmosDB connection string.
    * 
@@ -196,6 +205,14 @@ public @interface CosmosDBTrigger {
    */
   int maxItemsPerInvocation() default -1;
 
+  /**
+   * Customizes the maximum number of leases whose change feed batches are processed concurrently
+   * by an instance. Default is -1, which processes leases one at a time.
+   * 
+   * @return maximum number of leases processed concurrently
+   */
+  int maxConcurrentLeases() default -1;
+
   /**
    * Gets or sets whether change feed in the Azure Cosmos DB service should start from beginning
    * (true) or from current (false). By default it's start from current (false).
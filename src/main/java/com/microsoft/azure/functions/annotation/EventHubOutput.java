@@ -18,6 +18,7 @@ import java.lang.annotation.Target;
  * <ul>
  *     <li>Any native Java types such as int, String, byte[]</li>
  *     <li>Any POJO type</li>
+ *     <li>A List of any of the above, published as size-bounded batches</li>
  * </ul>
  *
  * <p>The following example shows a Java function that writes a message to an event hub:</p>
@@ -62,4 +63,27 @@ public @interface EventHubOutput {
      * @return The app setting name of the connection string.
      */
     String connection();
+
+    /**
+     * Defines the partition key of the events to publish. May include binding parameters, which are
+     * resolved once per invocation, so every event of a returned List is sent with the same key and
+     * the List is split into size-bounded batches for that key only. Per-event partition keys are not
+     * supported; declare one EventHubOutput per key to publish to several keys.
+     * @return The partition key string.
+     */
+    String partitionKey() default "";
+
+    /**
+     * Defines the maximum size in bytes of a batch when the value is a collection of events.
+     * Default is -1, which uses the maximum size allowed by the event hub.
+     * @return The maximum batch size in bytes.
+     */
+    int maxBatchSizeInBytes() default -1;
+
+    /**
+     * Defines the maximum number of batches sent in parallel at the end of the invocation.
+     * Default is -1, which sends one batch at a time.
+     * @return The maximum number of concurrent sends.
+     */
+    int maxConcurrentSends() default -1;
 }
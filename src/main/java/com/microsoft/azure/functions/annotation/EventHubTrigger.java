@@ -69,6 +69,13 @@ public @interface EventHubTrigger {
      */
     Cardinality cardinality() default Cardinality.MANY;
 
+    /**
+     * Defines whether the next batch of events is deserialized on a separate bounded pool while the
+     * current batch is being processed. Only applies when cardinality is 'Many'.
+     * Default: false
+     * @return Whether pipelined decoding is enabled.
+     */
+    boolean pipelinedDecoding() default false;
 
     /**
      * Defines the consumer group of the event hub to which to bind.
@@ -81,4 +88,47 @@ public @interface EventHubTrigger {
      * @return The app setting name of the connection string.
      */
     String connection();
+
+    /**
+     * Defines the maximum number of events delivered in a batch when cardinality is 'Many'.
+     * Default is -1, which uses the host setting.
+     * @return The maximum number of events in a batch.
+     */
+    int maxEventBatchSize() default -1;
+
+    /**
+     * Defines the number of events requested from the event hub and buffered locally before the
+     * function asks for them. Default is -1, which uses the host setting.
+     * @return The prefetch count.
+     */
+    int prefetchCount() default -1;
+
+    /**
+     * Defines the maximum time to wait to fill a batch before invoking the function, for example
+     * "00:00:05". Default is "", which uses the host setting.
+     * @return The maximum wait time.
+     */
+    String maxWaitTime() default "";
+
+    /**
+     * Defines the number of batches processed between checkpoints. Raising this value reduces writes
+     * to the checkpoint store at the cost of reprocessing more events after a failure.
+     * Default is -1, which checkpoints after every batch.
+     * @return The number of batches between checkpoints.
+     */
+    int batchCheckpointFrequency() default -1;
+
+    /**
+     * Defines how partition ownership is claimed when instances join or leave.
+     * 'Balanced' is the default if unspecified
+     * @return An {@link LoadBalancingStrategy} value representing the load balancing strategy
+     */
+    LoadBalancingStrategy loadBalancingStrategy() default LoadBalancingStrategy.BALANCED;
+
+    /**
+     * Defines the interval between partition ownership claims, for example "00:00:10".
+     * Default is "", which uses the Event Hubs client default of 10 seconds.
+     * @return The partition ownership claim interval.
+     */
+    String loadBalancingUpdateInterval() default "";
 }
@@ -88,6 +88,15 @@ public @interface KafkaTrigger {
      */
     Cardinality cardinality() default Cardinality.ONE;
 
+    /**
+     * Defines whether the next batch of events is deserialized on a separate bounded pool while the
+     * current batch is being processed. Only applies when cardinality is 'Many'.
+     * Default: false
+     *
+     * @return Whether pipelined decoding is enabled.
+     */
+    boolean pipelinedDecoding() default false;
+
     /**
      * <p>Defines how Functions runtime should treat the parameter value. Possible values are:</p>
      * <ul>
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.annotation;
+
+/**
+ * <p>
+ * Strategy used by the EventHubTrigger to claim partition ownership across function instances.
+ * 'BALANCED' is the default if unspecified
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public enum LoadBalancingStrategy {
+  /**
+   * Each instance claims at most one additional partition per load balancing cycle. This is the
+   * default if omitted.
+   */
+  BALANCED,
+
+  /**
+   * Each instance claims as many unowned or expired partitions as it needs to reach its fair share
+   * in a single load balancing cycle, which converges faster when instances join or leave.
+   */
+  GREEDY
+}
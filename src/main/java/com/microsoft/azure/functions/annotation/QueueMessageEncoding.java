@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.annotation;
+
+/**
+ * Encoding of storage queue message content.
+ *
+ * @since 3.1.0
+ */
+public enum QueueMessageEncoding {
+    /**
+     * The message content is base64 encoded. This is the default if omitted.
+     */
+    BASE64,
+
+    /**
+     * The message content is sent as is, which avoids the base64 overhead for payloads that are already text.
+     * Queue message content must be valid UTF-8 text, so binary payloads must use BASE64.
+     */
+    NONE
+}
@@ -18,6 +18,7 @@ import java.lang.annotation.Target;
  * <ul>
  *     <li>Any native Java types such as int, String, byte[]</li>
  *     <li>Any POJO type</li>
+ *     <li>A List of any of the above, sent concurrently</li>
  * </ul>
  *
  * <p>The following example shows a Java function that creates a queue message for each HTTP request received.</p>
@@ -65,4 +66,28 @@ public @interface QueueOutput {
      * @return The app setting name of the connection string.
      */
     String connection() default "";
+
+    /**
+     * Defines the encoding of the message content. The QueueTrigger reading the queue must use the same encoding.
+     * 'Base64' is the default if unspecified
+     * @return An {@link QueueMessageEncoding} value representing the message encoding
+     */
+    QueueMessageEncoding messageEncoding() default QueueMessageEncoding.BASE64;
+
+    /**
+     * Defines the compression applied to the message content. With GZIP, the message content is the base64
+     * encoding of the gzip-compressed UTF-8 payload, so messageEncoding must be BASE64; combining GZIP with NONE
+     * is not supported. Messages carry no marker, so the QueueTrigger reading the queue, or any other consumer,
+     * must be configured with the same compression.
+     * 'None' is the default if unspecified
+     * @return An {@link Compression} value representing the compression
+     */
+    Compression compression() default Compression.NONE;
+
+    /**
+     * Defines the maximum number of messages sent in parallel when the value is a collection of messages.
+     * Default is -1, which sends one message at a time.
+     * @return The maximum number of concurrent sends.
+     */
+    int maxConcurrentSends() default -1;
 }
@@ -66,4 +66,55 @@ public @interface QueueTrigger {
      * @return The app setting name of the connection string.
      */
     String connection() default "";
+
+    /**
+     * Defines the encoding of the message content, which must match the encoding used by the sender.
+     * 'Base64' is the default if unspecified
+     * @return An {@link QueueMessageEncoding} value representing the message encoding
+     */
+    QueueMessageEncoding messageEncoding() default QueueMessageEncoding.BASE64;
+
+    /**
+     * Defines the compression of the message content, which must match the compression used by the sender.
+     * With GZIP, the message content is base64 decoded and then gunzipped before binding, so messageEncoding
+     * must be BASE64.
+     * 'None' is the default if unspecified
+     * @return An {@link Compression} value representing the compression
+     */
+    Compression compression() default Compression.NONE;
+
+    /**
+     * Defines the number of messages retrieved and processed in parallel per instance.
+     * Default is -1, which uses the host setting.
+     * @return The batch size.
+     */
+    int batchSize() default -1;
+
+    /**
+     * Defines the number of messages still being processed below which the next batch is fetched.
+     * Default is -1, which uses the host setting.
+     * @return The new batch threshold.
+     */
+    int newBatchThreshold() default -1;
+
+    /**
+     * Defines the maximum interval between polls of an empty queue, for example "00:00:30".
+     * Default is "", which uses the host setting.
+     * @return The maximum polling interval.
+     */
+    String maxPollingInterval() default "";
+
+    /**
+     * Defines the time a message stays invisible after a failed invocation before it is retried,
+     * for example "00:00:10". Default is "", which uses the host setting.
+     * @return The visibility timeout.
+     */
+    String visibilityTimeout() default "";
+
+    /**
+     * Defines the number of times a message is dequeued before it is moved to the poison queue.
+     * Default is -1, which uses the host setting.
+     * @return The maximum dequeue count.
+     */
+    int maxDequeueCount() default -1;
 }
@@ -18,6 +18,7 @@ import java.lang.annotation.Target;
  * <ul>
  *     <li>Any native Java types such as int, String, byte[]</li>
  *     <li>Any POJO type</li>
+ *     <li>A List of any of the above, sent as size-bounded batches</li>
  * </ul>
  *
  * <p>The following example shows a Java function that sends a Service Bus queue message:</p>
@@ -71,4 +72,31 @@ public @interface ServiceBusQueueOutput {
      * @return The Service Bus queue permission.
      */
     AccessRights access() default AccessRights.MANAGE;
+
+    /**
+     * Defines the session id of the messages to send. May include binding parameters.
+     * @return The session id string.
+     */
+    String sessionId() default "";
+
+    /**
+     * Defines the scheduled enqueue time of the messages to send, in ISO 8601 format.
+     * May include binding parameters.
+     * @return The scheduled enqueue time string.
+     */
+    String scheduledEnqueueTime() default "";
+
+    /**
+     * Defines the maximum size in bytes of a batch when the value is a collection of messages.
+     * Default is -1, which uses the maximum size allowed by the namespace.
+     * @return The maximum batch size in bytes.
+     */
+    int maxBatchSizeInBytes() default -1;
+
+    /**
+     * Defines the maximum number of batches sent in parallel at the end of the invocation.
+     * Default is -1, which sends one batch at a time.
+     * @return The maximum number of concurrent sends.
+     */
+    int maxConcurrentSends() default -1;
 }
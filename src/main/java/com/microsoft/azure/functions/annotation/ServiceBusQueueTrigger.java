@@ -93,6 +93,21 @@ public @interface ServiceBusQueueTrigger {
    */
   boolean isSessionsEnabled() default false;
 
+  /**
+   * Defines the maximum number of sessions processed concurrently per instance. Only applies when
+   * sessions are enabled. Default is -1, which uses the host setting.
+   * @return The maximum number of concurrent sessions.
+   */
+  int maxConcurrentSessions() default -1;
+
+  /**
+   * Defines how long to wait for the next message of a session before the session is released, for
+   * example "00:00:30". Only applies when sessions are enabled. Default is "", which uses the host
+   * setting.
+   * @return The session idle timeout.
+   */
+  String sessionIdleTimeout() default "";
+
   /**
    * Cardinality of the trigger input.
    * Choose 'One' if the input is a single message or 'Many' if the input is an array of messages.
@@ -100,4 +115,40 @@ public @interface ServiceBusQueueTrigger {
    * @return An {@link Cardinality} value representing the Cardinality
    */
   Cardinality cardinality() default Cardinality.ONE;
+
+  /**
+   * Defines whether the next batch of messages is deserialized on a separate bounded pool while the
+   * current batch is being processed. Only applies when cardinality is 'Many'.
+   * Default: false
+   * @return Whether pipelined decoding is enabled.
+   */
+  boolean pipelinedDecoding() default false;
+
+  /**
+   * Defines the number of messages requested from Service Bus and buffered locally before the
+   * function asks for them. Default is -1, which uses the host setting.
+   * @return The prefetch count.
+   */
+  int prefetchCount() default -1;
+
+  /**
+   * Defines the maximum number of concurrent calls to the function per instance.
+   * Default is -1, which uses the host setting.
+   * @return The maximum number of concurrent calls.
+   */
+  int maxConcurrentCalls() default -1;
+
+  /**
+   * Defines the maximum number of messages delivered in a batch when cardinality is 'Many'.
+   * Default is -1, which uses the host setting.
+   * @return The maximum number of messages in a batch.
+   */
+  int maxMessageBatchSize() default -1;
+
+  /**
+   * Defines the maximum duration within which the message lock is renewed automatically, for
+   * example "00:05:00". Default is "", which uses the host setting.
+   * @return The maximum auto lock renewal duration.
+   */
+  String maxAutoLockRenewalDuration() default "";
 }
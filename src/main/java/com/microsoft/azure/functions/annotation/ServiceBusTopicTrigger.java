@@ -82,6 +82,30 @@ public @interface ServiceBusTopicTrigger {
    */
   String subscriptionName();
 
+  /**
+   * Defines a SQL filter expression to provision as the only rule on the subscription, for example
+   * "priority = 'high'". The rule is provisioned at deployment by tooling that supports this
+   * attribute, and replaces the subscription's "$Default" rule, which matches every message. Tooling
+   * or extensions that do not support it ignore the attribute and leave "$Default" in place, so every
+   * message is still delivered; keep any filtering in code until the rule is confirmed on the
+   * subscription. Replacing the rule affects every function bound to the subscription: all of them
+   * must declare the same filter, otherwise each deployment overwrites the rule of the others and the
+   * last deployment wins. Cannot be combined with correlationId.
+   * 
+   * @return The SQL filter expression string.
+   */
+  String sqlFilter() default "";
+
+  /**
+   * Defines a CorrelationId to provision as a correlation filter rule on the subscription, so only
+   * messages with that CorrelationId match. Other correlation filter properties such as Label or user
+   * properties are not supported, use sqlFilter for those. Provisioning, support and conflicts follow
+   * the same rules as sqlFilter. Cannot be combined with sqlFilter.
+   * 
+   * @return The CorrelationId string.
+   */
+  String correlationId() default "";
+
   /**
    * Defines the app setting name that contains the Service Bus connection string.
    * 
@@ -102,6 +126,21 @@ public @interface ServiceBusTopicTrigger {
    */
   boolean isSessionsEnabled() default false;
 
+  /**
+   * Defines the maximum number of sessions processed concurrently per instance. Only applies when
+   * sessions are enabled. Default is -1, which uses the host setting.
+   * @return The maximum number of concurrent sessions.
+   */
+  int maxConcurrentSessions() default -1;
+
+  /**
+   * Defines how long to wait for the next message of a session before the session is released, for
+   * example "00:00:30". Only applies when sessions are enabled. Default is "", which uses the host
+   * setting.
+   * @return The session idle timeout.
+   */
+  String sessionIdleTimeout() default "";
+
   /**
    * Cardinality of the trigger input.
    * Choose 'One' if the input is a single message or 'Many' if the input is an array of messages.
@@ -109,4 +148,32 @@ public @interface ServiceBusTopicTrigger {
    * @return An {@link Cardinality} value representing the Cardinality
    */
   Cardinality cardinality() default Cardinality.ONE;
+
+  /**
+   * Defines the number of messages requested from Service Bus and buffered locally before the
+   * function asks for them. Default is -1, which uses the host setting.
+   * @return The prefetch count.
+   */
+  int prefetchCount() default -1;
+
+  /**
+   * Defines the maximum number of concurrent calls to the function per instance.
+   * Default is -1, which uses the host setting.
+   * @return The maximum number of concurrent calls.
+   */
+  int maxConcurrentCalls() default -1;
+
+  /**
+   * Defines the maximum number of messages delivered in a batch when cardinality is 'Many'.
+   * Default is -1, which uses the host setting.
+   * @return The maximum number of messages in a batch.
+   */
+  int maxMessageBatchSize() default -1;
+
+  /**
+   * Defines the maximum duration within which the message lock is renewed automatically, for
+   * example "00:05:00". Default is "", which uses the host setting.
+   * @return The maximum auto lock renewal duration.
+   */
+  String maxAutoLockRenewalDuration() default "";
 }
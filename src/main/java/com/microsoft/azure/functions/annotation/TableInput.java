@@ -21,6 +21,10 @@ import java.lang.annotation.Target;
  *     <li>Any POJO type</li>
  * </ul>
  *
+ * <p>Iterable&lt;T&gt; or Stream&lt;T&gt; can also be used for filter results, which are then fetched lazily one
+ * page at a time. These parameter types require a Java worker and Storage extension that support them; otherwise
+ * the function fails when its parameters are bound.</p>
+ *
  * <p>The following example shows an HTTP trigger which returned the total count of the items in a table storage:</p>
  *
  * <pre>{@literal @}FunctionName("getallcount")
@@ -71,6 +75,28 @@ public @interface TableInput {
      */
     String partitionKey() default "";
 
+    /**
+     * Defines the set of partition keys to scan in parallel. The filter is run separately for each partition
+     * key and the results are merged as a stream in no particular order. When take is set, it limits the total
+     * number of entities across all partitions, and the remaining queries are cancelled once it is reached.
+     * Cannot be combined with partitionKey or rowKey. Each element may include binding parameters, for example
+     * "{Query.region}"; an element that resolves to a JSON array of strings is expanded into those keys, so a
+     * set chosen at runtime can be passed as a single element such as "{keys}".
+     * This attribute requires a Java worker and Storage extension that support it; a supporting extension fails
+     * the function when its parameters are bound if the attribute cannot be honored. An extension that predates
+     * it ignores it and runs the filter across every partition, merging entities from unrelated partitions into
+     * the result, so do not deploy functions using it to such hosts.
+     * @return The storage table partition keys.
+     */
+    String[] partitionKeys() default {};
+
+    /**
+     * Defines the maximum number of partition queries run concurrently when partitionKeys is set.
+     * Default is -1, which runs one partition query at a time.
+     * @return The maximum number of concurrent partition queries.
+     */
+    int scanParallelism() default -1;
+
     /**
      * Defines the row key of the storage table to which to bind.
      * @return The storage table row key string.
@@ -78,7 +104,8 @@ public @interface TableInput {
     String rowKey() default "";
 
     /**
-     * Defines the filter of the storage table to which to bind.
+     * Defines the filter of the storage table to which to bind. May include binding parameters,
+     * for example "RowKey eq '{id}'". Binding parameters are substituted as escaped values.
      * @return The storage table filter string.
      */
     String filter() default "";
@@ -89,6 +116,20 @@ public @interface TableInput {
      */
     String take() default "";
 
+    /**
+     * Defines the comma-separated list of properties to retrieve, for example "PartitionKey,RowKey,Status".
+     * Default is "", which retrieves every property.
+     * @return The storage table select string.
+     */
+    String select() default "";
+
+    /**
+     * Defines the maximum number of entities fetched per page when the parameter type is Iterable&lt;T&gt;
+     * or Stream&lt;T&gt;. Default is -1, which uses the service default.
+     * @return The maximum number of entities per page.
+     */
+    int pageSize() default -1;
+
     /**
      * Defines the app setting name that contains the Azure Storage connection string.
      * @return The app setting name of the connection string.
@@ -65,4 +65,32 @@ public @interface TableOutput {
      * @return The app setting name of the connection string.
      */
     String connection() default "";
+
+    /**
+     * Defines the operation used to write entities.
+     * 'Insert' is the default if unspecified
+     * @return An {@link TableWriteMode} value representing the write mode
+     */
+    TableWriteMode writeMode() default TableWriteMode.INSERT;
+
+    /**
+     * Defines whether a collection of entities is grouped by partition key into transactional batches. Batches
+     * are split so each holds at most 100 operations and stays under the service's 4 MiB payload limit; a single
+     * entity too large to fit fails the invocation before anything is written. A batch is atomic, so it fails as
+     * a whole when any of its operations fails, including when two entities in it share a RowKey. If any batch
+     * fails, the invocation fails with an error listing each failed batch, its partition key and the first
+     * failing entity, so the trigger's retry and at-least-once delivery still apply. Batches that succeeded stay
+     * written and are sent again on retry, so writeMode must be UPSERT_MERGE or UPSERT_REPLACE; combining this
+     * with INSERT fails the function at startup.
+     * Default: false
+     * @return Whether entities are written in transactional batches.
+     */
+    boolean transactionalBatches() default false;
+
+    /**
+     * Defines the maximum number of batches executed concurrently across partitions when transactionalBatches
+     * is true. Default is -1, which executes one batch at a time.
+     * @return The maximum number of concurrent batches.
+     */
+    int maxConcurrentBatches() default -1;
 }
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.annotation;
+
+/**
+ * Operation used by the TableOutput binding to write entities.
+ *
+ * @since 3.1.0
+ */
+public enum TableWriteMode {
+    /**
+     * Inserts the entity, failing if it already exists. This is the default if omitted.
+     */
+    INSERT,
+
+    /**
+     * Inserts the entity, or merges its properties into the existing entity.
+     */
+    UPSERT_MERGE,
+
+    /**
+     * Inserts the entity, or replaces the existing entity.
+     */
+    UPSERT_REPLACE
+}